@@ -1,5 +1,6 @@
 package com.example.hazelcast.config;
 
+import com.example.hazelcast.startup.StartupMetrics;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.EvictionConfig;
@@ -9,15 +10,33 @@ import com.hazelcast.config.EvictionPolicy;
 import com.hazelcast.config.MaxSizePolicy;
 import com.hazelcast.config.IndexConfig;
 import com.hazelcast.config.IndexType;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.RingbufferConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class HazelcastConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(HazelcastConfig.class);
+
+    // Both default to the Hazelcast defaults; the faststart profile lowers them to shorten pod startup
+    @Value("${hazelcast.kubernetes.service-dns-timeout:5}")
+    private int serviceDnsTimeoutSeconds;
+
+    @Value("${hazelcast.join.wait-seconds:5}")
+    private int joinWaitSeconds;
+
     @Bean(name = "customHazelcastConfig")
     public Config hazelcastConfig() {
         Config config = new Config()
@@ -29,7 +48,24 @@ public class HazelcastConfig {
                                 .setSize(100)
                                 .setMaxSizePolicy(MaxSizePolicy.FREE_HEAP_SIZE)
                                 .setEvictionPolicy(EvictionPolicy.LRU))
-                        .setTimeToLiveSeconds(3600));
+                        .setTimeToLiveSeconds(3600)
+                        // Near cache keeps deserialized copies of hot entries on each member, HotKeyWarmer preloads it on startup.
+                        // Reads may briefly return a value another member just changed, see the invalidation settings below
+                        .setNearCacheConfig(new NearCacheConfig()
+                                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                                .setCacheLocalEntries(true)
+                                .setInvalidateOnChange(true)
+                                .setEvictionConfig(new EvictionConfig()
+                                        .setSize(10000)
+                                        .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT)
+                                        .setEvictionPolicy(EvictionPolicy.LFU))))
+                // The "default" config is also the fallback for every other map name. Exact names win over wildcards,
+                // so this keeps internal maps (__hotkeys, __warmup-<uuid>) from inheriting the index and near cache
+                .addMapConfig(new MapConfig("*"));
+
+        // Send near cache invalidations right away instead of batching them for up to 10 seconds.
+        // Invalidations lost in transit are still only repaired by the periodic reconciliation (60 s by default)
+        config.setProperty("hazelcast.map.invalidation.batch.enabled", "false");
 
         // Ringbuffer Configuration
         RingbufferConfig ringbufferConfig = new RingbufferConfig();
@@ -45,13 +81,19 @@ public class HazelcastConfig {
         joinConfig.getKubernetesConfig()
                 .setEnabled(true)
                 .setProperty("service-dns", "hazelcast.default.svc.cluster.local")
-                .setProperty("service-dns-timeout", "5");
+                .setProperty("service-dns-timeout", String.valueOf(serviceDnsTimeoutSeconds));
+        config.setProperty("hazelcast.wait.seconds.before.join", String.valueOf(joinWaitSeconds));
 
         return config;
     }
 
     @Bean
-    public HazelcastInstance hazelcastInstance(Config config) {
-        return Hazelcast.newHazelcastInstance(config);
+    public HazelcastInstance hazelcastInstance(Config config, ObjectProvider<MeterRegistry> meterRegistry) {
+        long start = System.nanoTime();
+        HazelcastInstance instance = Hazelcast.newHazelcastInstance(config);
+        long elapsed = System.nanoTime() - start;
+        logger.info("Hazelcast instance started in {} ms", TimeUnit.NANOSECONDS.toMillis(elapsed));
+        meterRegistry.ifAvailable(registry -> StartupMetrics.recordPhase(registry, "instance", elapsed, TimeUnit.NANOSECONDS));
+        return instance;
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.hazelcast.controller;
 
+import com.example.hazelcast.hotkeys.HotKeyTracker;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import com.hazelcast.query.Predicates;
@@ -13,12 +14,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
 
 @RestController
@@ -29,12 +33,23 @@ public class CacheMapController {
     @Autowired
     private HazelcastInstance hazelcastInstance;
 
+    @Autowired
+    private HotKeyTracker hotKeyTracker;
+
+    // Only 1 in N get/put requests is logged, logging every call was a noticeable cost on the hot path
+    @Value("${cache.logging.sample-rate:100}")
+    private int logSampleRate;
+
     private static final Logger logger = LoggerFactory.getLogger(CacheMapController.class);
 
     private IMap<String, String> getCache() {
         return hazelcastInstance.getMap("default");
     }
 
+    private boolean sampleLog() {
+        return logger.isInfoEnabled() && (logSampleRate <= 1 || ThreadLocalRandom.current().nextInt(logSampleRate) == 0);
+    }
+
     @PutMapping("/{key}")
     @Operation(summary = "Add or update an entry in the cache", description = "Stores the given value associated with the specified key in the Hazelcast 'default' map.")
     @ApiResponses(value = {
@@ -47,7 +62,10 @@ public class CacheMapController {
             @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "The value to store in the cache", required = true,
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = String.class)))
             @RequestBody String value) {
-        logger.info("Adding entry to cache: key={}, value={}", key, value);
+        if (sampleLog()) {
+            logger.info("Adding entry to cache (sampled 1/{}): key={}, value={}", logSampleRate, key, value);
+        }
+        hotKeyTracker.recordAccess(key);
         try {
             getCache().put(key, value);
             return "Entry added to cache.";
@@ -65,7 +83,10 @@ public class CacheMapController {
     })
     public String getEntry(
             @Parameter(description = "The key of the cache entry to retrieve") @PathVariable String key) {
-        logger.info("Retrieving entry from cache: key={}", key);
+        if (sampleLog()) {
+            logger.info("Retrieving entry from cache (sampled 1/{}): key={}", logSampleRate, key);
+        }
+        hotKeyTracker.recordAccess(key);
         return getCache().getOrDefault(key, "Entry not found.");
     }
 
@@ -97,6 +118,18 @@ public class CacheMapController {
         );
     }
 
+    @GetMapping("/hotkeys")
+    @Operation(summary = "Get the most frequently accessed keys", description = "Returns the hottest keys seen by this member's get/put endpoints, hottest first. Counts are count-min sketch estimates that may slightly over-count and are periodically halved so the ranking follows recent traffic.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hot keys retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = List.class)))
+    })
+    public List<HotKeyTracker.HotKey> getHotKeys(
+            @Parameter(description = "Maximum number of keys to return") @RequestParam(defaultValue = "10") int limit) {
+        logger.info("Fetching top {} hot keys", limit);
+        return hotKeyTracker.topKeys(limit);
+    }
+
     @GetMapping("/query")
     @Operation(summary = "Query cache entries by key prefix", description = "Finds all entries in the Hazelcast 'default' map whose keys start with the specified prefix using a SQL-like predicate.")
     @ApiResponses(value = {
@@ -0,0 +1,82 @@
+package com.example.hazelcast.hotkeys;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free count-min sketch. Each key increments one counter per row, and its frequency estimate is the
+ * minimum of those counters. That estimate never under-counts, and it over-counts only on hash collisions.
+ * Memory is fixed at {@code depth * width} longs no matter how many distinct keys are seen.
+ * <p>
+ * Row columns come from a 64-bit hash of the key's characters, split into two halves and combined as
+ * {@code h1 + row * h2}. Two keys therefore share every row only if their full 64-bit hashes collide, not
+ * merely their 32-bit {@code String.hashCode()} (as "Aa" and "BB" do).
+ */
+class CountMinSketch {
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private final int depth;
+    private final int widthMask;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int depth, int width) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("depth must be positive: " + depth);
+        }
+        if (width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width must be a positive power of two: " + width);
+        }
+        this.depth = depth;
+        this.widthMask = width - 1;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    /** Adds one occurrence of {@code key} and returns its updated frequency estimate. */
+    long increment(String key) {
+        long hash = hash64(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    long estimate(String key) {
+        long hash = hash64(key);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, hash)));
+        }
+        return estimate;
+    }
+
+    /** Halves every counter so that keys which were hot a long time ago fade out. */
+    void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.updateAndGet(i, count -> count >>> 1);
+        }
+    }
+
+    private int index(int row, long hash) {
+        int h1 = (int) hash;
+        // Forced odd so the step is never 0 modulo the power-of-two width
+        int h2 = (int) (hash >>> 32) | 1;
+        return row * (widthMask + 1) + ((h1 + row * h2) & widthMask);
+    }
+
+    /** FNV-1a over the UTF-16 chars, finished with MurmurHash3's fmix64 to spread the bits. */
+    static long hash64(String key) {
+        long h = FNV_OFFSET_BASIS;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= FNV_PRIME;
+        }
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.hazelcast.hotkeys;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks how often map keys are accessed, cheaply enough to run on every request.
+ * <p>
+ * Frequencies come from a {@link CountMinSketch}. Keys whose estimate reaches the current admission threshold
+ * become top-K candidates. A request only writes to the candidate set when its key is not in it yet, so hot keys
+ * cost a sketch increment and a map lookup. Counts are read from the sketch when the ranking is requested. Once
+ * there are too many candidates, they are trimmed to the top K with a min-heap, and the threshold rises to the
+ * smallest surviving count. The trim only takes its lock through {@code tryLock}, so request threads never block
+ * on it. All counts are halved every {@code cache.hotkeys.decay-interval-ms} on the scheduler thread, so the
+ * ranking follows recent traffic.
+ */
+@Component
+public class HotKeyTracker {
+
+    /** Prefix of the keys used by startup warm-up requests, which are never counted. */
+    public static final String WARMUP_KEY_PREFIX = "__warmup-";
+
+    private static final Comparator<Map.Entry<String, Long>> BY_COUNT = Map.Entry.comparingByValue();
+
+    private final CountMinSketch sketch;
+    private final int topK;
+    private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+    private volatile long admissionThreshold;
+
+    public HotKeyTracker(@Value("${cache.hotkeys.top-k:100}") int topK,
+                         @Value("${cache.hotkeys.sketch-depth:4}") int sketchDepth,
+                         @Value("${cache.hotkeys.sketch-width:4096}") int sketchWidth) {
+        if (topK < 1) {
+            throw new IllegalArgumentException("cache.hotkeys.top-k must be positive: " + topK);
+        }
+        this.sketch = new CountMinSketch(sketchDepth, sketchWidth);
+        this.topK = topK;
+    }
+
+    public void recordAccess(String key) {
+        if (key.startsWith(WARMUP_KEY_PREFIX)) {
+            return;
+        }
+        long estimate = sketch.increment(key);
+        // contains() is a plain read, only keys that are not candidates yet write to the set
+        if (estimate >= admissionThreshold && !candidates.contains(key)
+                && candidates.add(key) && candidates.size() > 2 * topK) {
+            trim();
+        }
+    }
+
+    /** Returns up to {@code limit} of the most frequently accessed keys, hottest first. */
+    public List<HotKey> topKeys(int limit) {
+        List<HotKey> result = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : selectTop(Math.min(limit, topK))) {
+            result.add(new HotKey(entry.getKey(), entry.getValue()));
+        }
+        result.sort(Comparator.comparingLong(HotKey::estimatedCount).reversed());
+        return result;
+    }
+
+    /** Halves all counts so that keys which were hot a long time ago fade out. */
+    @Scheduled(fixedDelayString = "${cache.hotkeys.decay-interval-ms:60000}",
+            initialDelayString = "${cache.hotkeys.decay-interval-ms:60000}")
+    public void decay() {
+        // Runs on the scheduler thread, so it can wait for a trim in progress instead of being skipped
+        maintenanceLock.lock();
+        try {
+            sketch.decay();
+            retainTop();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private void trim() {
+        if (!maintenanceLock.tryLock()) {
+            // Another thread is already trimming or decaying, no need to queue up behind it
+            return;
+        }
+        try {
+            retainTop();
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private void retainTop() {
+        PriorityQueue<Map.Entry<String, Long>> top = selectTop(topK);
+        Set<String> survivors = new HashSet<>();
+        top.forEach(entry -> survivors.add(entry.getKey()));
+        candidates.retainAll(survivors);
+        admissionThreshold = top.size() < topK ? 0 : top.peek().getValue();
+    }
+
+    /** Min-heap holding the {@code k} candidates with the highest counts; the head is the smallest of them. */
+    private PriorityQueue<Map.Entry<String, Long>> selectTop(int k) {
+        PriorityQueue<Map.Entry<String, Long>> heap = new PriorityQueue<>(Math.max(1, k + 1), BY_COUNT);
+        if (k <= 0) {
+            return heap;
+        }
+        for (String key : candidates) {
+            heap.offer(Map.entry(key, sketch.estimate(key)));
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        return heap;
+    }
+
+    public record HotKey(String key, long estimatedCount) {
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.hazelcast.hotkeys;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the hottest keys in the member's near cache across restarts.
+ * <p>
+ * Each member regularly publishes the top keys from its {@link HotKeyTracker} to the cluster-wide
+ * {@value #HOT_KEYS_MAP} map. Entries expire after a while, so keys that cool down drop out of the list. When a
+ * member (re)starts, it reads that list before accepting traffic. It then loads those keys from the
+ * {@code default} map with one {@code getAll}, which fills its near cache. The restarted pod starts with the
+ * same hot set as the rest of the cluster instead of an empty one.
+ */
+@Component
+public class HotKeyWarmer implements ApplicationRunner {
+
+    static final String HOT_KEYS_MAP = "__hotkeys";
+
+    private static final Logger logger = LoggerFactory.getLogger(HotKeyWarmer.class);
+
+    @Autowired
+    private HazelcastInstance hazelcastInstance;
+
+    @Autowired
+    private HotKeyTracker hotKeyTracker;
+
+    @Value("${cache.hotkeys.preload-count:100}")
+    private int preloadCount;
+
+    @Value("${cache.hotkeys.published-ttl-seconds:3600}")
+    private long publishedTtlSeconds;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (preloadCount <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            IMap<String, Long> published = hazelcastInstance.getMap(HOT_KEYS_MAP);
+            Set<String> keys = published.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .limit(preloadCount)
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (keys.isEmpty()) {
+                logger.info("No published hot keys found, skipping near cache preload");
+                return;
+            }
+            IMap<String, String> cache = hazelcastInstance.getMap("default");
+            int loaded = cache.getAll(keys).size();
+            logger.info("Preloaded {} of {} published hot keys into the near cache in {} ms",
+                    loaded, keys.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (RuntimeException e) {
+            // The preload only saves a few cold reads, it must never stop the application from starting
+            logger.warn("Hot key preload aborted after {} ms: {}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.hotkeys.publish-interval-ms:30000}",
+            initialDelayString = "${cache.hotkeys.publish-interval-ms:30000}")
+    public void publishHotKeys() {
+        if (preloadCount <= 0) {
+            return;
+        }
+        List<HotKeyTracker.HotKey> hotKeys = hotKeyTracker.topKeys(preloadCount);
+        if (hotKeys.isEmpty()) {
+            return;
+        }
+        IMap<String, Long> published = hazelcastInstance.getMap(HOT_KEYS_MAP);
+        CompletableFuture<?>[] writes = new CompletableFuture<?>[hotKeys.size()];
+        for (int i = 0; i < hotKeys.size(); i++) {
+            HotKeyTracker.HotKey hotKey = hotKeys.get(i);
+            writes[i] = published.setAsync(hotKey.key(), hotKey.estimatedCount(), publishedTtlSeconds, TimeUnit.SECONDS)
+                    .toCompletableFuture();
+        }
+        CompletableFuture.allOf(writes).whenComplete((ignored, error) -> {
+            if (error != null) {
+                logger.warn("Failed to publish some of {} hot keys: {}", hotKeys.size(), error.getMessage(), error);
+            } else {
+                logger.debug("Published {} hot keys, hottest={}", hotKeys.size(), hotKeys.get(0));
+            }
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.hazelcast.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records startup phase durations as the {@code hazelcast.startup.phase} timer, tagged with the phase name
+ * ({@code instance}, {@code proxies}, {@code warmup}, {@code http}, {@code cluster-safe}).
+ */
+public final class StartupMetrics {
+
+    public static final String STARTUP_PHASE_METRIC = "hazelcast.startup.phase";
+
+    private StartupMetrics() {
+    }
+
+    public static void recordPhase(MeterRegistry registry, String phase, long duration, TimeUnit unit) {
+        Timer.builder(STARTUP_PHASE_METRIC)
+                .description("Duration of application startup phases")
+                .tag("phase", phase)
+                .register(registry)
+                .record(duration, unit);
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.hazelcast.startup;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.MigrationListener;
+import com.hazelcast.partition.MigrationState;
+import com.hazelcast.partition.PartitionService;
+import com.hazelcast.partition.ReplicaMigrationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Readiness contributor ({@code startupReadiness}) that gates the <em>first</em> transition to ready: it stays
+ * {@code OUT_OF_SERVICE} until the warm-up has run, no partition migrations are in flight and the cluster reports a
+ * safe state (all backups in sync). Once all of that has been seen the result is latched to {@code UP}.
+ * {@code isClusterSafe()} turns false on every member whenever a migration runs anywhere in the cluster, so
+ * re-evaluating it later would take all ready pods out of the Service at once each time a member joins or leaves.
+ * Included in the actuator readiness group by the {@code faststart} profile.
+ */
+@Component
+@Profile("faststart")
+public class StartupReadinessHealthIndicator implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReadinessHealthIndicator.class);
+
+    @Autowired
+    private HazelcastInstance hazelcastInstance;
+
+    @Autowired
+    private StartupWarmup startupWarmup;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private volatile boolean migrating;
+    private volatile int remainingMigrations;
+    private volatile boolean startupComplete;
+
+    @PostConstruct
+    void registerMigrationListener() {
+        hazelcastInstance.getPartitionService().addMigrationListener(new MigrationListener() {
+            @Override
+            public void migrationStarted(MigrationState state) {
+                migrating = true;
+                remainingMigrations = state.getRemainingMigrations();
+                logger.info("Partition migration started: planned={}", state.getPlannedMigrations());
+            }
+
+            @Override
+            public void migrationFinished(MigrationState state) {
+                migrating = false;
+                remainingMigrations = state.getRemainingMigrations();
+                logger.info("Partition migration finished: completed={}, remaining={}",
+                        state.getCompletedMigrations(), state.getRemainingMigrations());
+            }
+
+            @Override
+            public void replicaMigrationCompleted(ReplicaMigrationEvent event) {
+                remainingMigrations = event.getMigrationState().getRemainingMigrations();
+            }
+
+            @Override
+            public void replicaMigrationFailed(ReplicaMigrationEvent event) {
+                remainingMigrations = event.getMigrationState().getRemainingMigrations();
+            }
+        });
+    }
+
+    @Override
+    public Health health() {
+        if (startupComplete) {
+            return Health.up()
+                    .withDetail("startupComplete", true)
+                    .withDetail("migrationInProgress", migrating)
+                    .build();
+        }
+
+        PartitionService partitionService = hazelcastInstance.getPartitionService();
+        boolean warmedUp = startupWarmup.isComplete();
+        boolean clusterSafe = partitionService.isClusterSafe();
+        boolean localMemberSafe = partitionService.isLocalMemberSafe();
+        boolean ready = warmedUp && clusterSafe && localMemberSafe && !migrating;
+
+        if (ready) {
+            startupComplete = true;
+            long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            StartupMetrics.recordPhase(meterRegistry, "cluster-safe", uptimeMillis, TimeUnit.MILLISECONDS);
+            logger.info("Ready for traffic {} ms after JVM start", uptimeMillis);
+        }
+
+        return (ready ? Health.up() : Health.outOfService())
+                .withDetail("startupComplete", ready)
+                .withDetail("warmupComplete", warmedUp)
+                .withDetail("clusterSafe", clusterSafe)
+                .withDetail("localMemberSafe", localMemberSafe)
+                .withDetail("migrationInProgress", migrating)
+                .withDetail("remainingMigrations", remainingMigrations)
+                .withDetail("clusterSize", hazelcastInstance.getCluster().getMembers().size())
+                .build();
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.hazelcast.startup;
+
+import com.example.hazelcast.hotkeys.HotKeyTracker;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicates;
+import com.hazelcast.ringbuffer.Ringbuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs before the application reports {@code ACCEPTING_TRAFFIC}: creates the map and ringbuffer proxies used by
+ * the controllers and exercises the Hazelcast calls they make, so the first real requests don't pay for proxy
+ * creation and interpreted client/serialization code. Writes go to a throw-away map named after the local member,
+ * so pods starting together never share (or destroy) each other's scratch map and no user-visible entries or
+ * listener events are produced. A few local HTTP requests then warm the Tomcat, Spring MVC and Jackson path.
+ */
+@Component
+@Profile("faststart")
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmup.class);
+
+    private static final String WARMUP_MAP_PREFIX = "__warmup-";
+
+    @Autowired
+    private HazelcastInstance hazelcastInstance;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${faststart.warmup.iterations:2000}")
+    private int iterations;
+
+    @Value("${faststart.warmup.http-requests:50}")
+    private int httpRequests;
+
+    private volatile boolean complete;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            long proxiesStart = System.nanoTime();
+            IMap<String, String> cache = hazelcastInstance.getMap("default");
+            Ringbuffer<String> ringbuffer = hazelcastInstance.getRingbuffer("ringbuffer-demo");
+            IMap<String, String> scratch = hazelcastInstance.getMap(
+                    WARMUP_MAP_PREFIX + hazelcastInstance.getCluster().getLocalMember().getUuid());
+            StartupMetrics.recordPhase(meterRegistry, "proxies", System.nanoTime() - proxiesStart, TimeUnit.NANOSECONDS);
+
+            warmUpHazelcast(cache, ringbuffer, scratch);
+            warmUpHttp();
+        } finally {
+            complete = true;
+        }
+    }
+
+    private void warmUpHazelcast(IMap<String, String> cache, Ringbuffer<String> ringbuffer, IMap<String, String> scratch) {
+        long warmupStart = System.nanoTime();
+        try {
+            for (int i = 0; i < iterations; i++) {
+                String key = HotKeyTracker.WARMUP_KEY_PREFIX + (i % 64);
+                cache.getOrDefault(key, "Entry not found.");
+                scratch.put(key, key);
+                scratch.get(key);
+                scratch.remove(key);
+                ringbuffer.headSequence();
+                ringbuffer.tailSequence();
+                // Predicate queries fan out to every member, a handful is enough to load the query engine. They run
+                // against the scratch map: the HASH index on the default map can't serve LIKE, so it would be a full scan
+                if (i % 100 == 0) {
+                    scratch.entrySet(Predicates.sql("__key LIKE '" + HotKeyTracker.WARMUP_KEY_PREFIX + "%'"));
+                    ringbuffer.readManyAsync(ringbuffer.headSequence(), 0, 10, null).toCompletableFuture().join();
+                }
+            }
+            logger.info("Warm-up finished: {} iterations in {} ms", iterations,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - warmupStart));
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs latency, it must not keep the pod out of service
+            logger.warn("Warm-up aborted after {} ms: {}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - warmupStart), e.getMessage(), e);
+        } finally {
+            try {
+                scratch.destroy();
+            } catch (RuntimeException e) {
+                logger.warn("Failed to destroy warm-up map {}: {}", scratch.getName(), e.getMessage());
+            }
+            StartupMetrics.recordPhase(meterRegistry, "warmup", System.nanoTime() - warmupStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Sends a few requests through Tomcat to this instance's own controllers. Tomcat is already listening when
+     * application runners are called, only readiness keeps the Service from routing to it. Only read-only
+     * endpoints are called, with keys that {@link HotKeyTracker} ignores.
+     */
+    private void warmUpHttp() {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || httpRequests <= 0) {
+            return;
+        }
+        long httpStart = System.nanoTime();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(2))
+                .build();
+        String baseUrl = "http://localhost:" + port;
+        try {
+            for (int i = 0; i < httpRequests; i++) {
+                send(client, baseUrl + "/cache/" + HotKeyTracker.WARMUP_KEY_PREFIX + (i % 64));
+                // The JSON endpoint logs every call at INFO, a few calls are enough to load Jackson
+                if (i % 10 == 0) {
+                    send(client, baseUrl + "/ringbuffer/info");
+                }
+            }
+            logger.info("HTTP warm-up finished: {} requests in {} ms", httpRequests,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - httpStart));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("HTTP warm-up aborted after {} ms: {}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - httpStart), e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warn("HTTP warm-up interrupted");
+        } finally {
+            StartupMetrics.recordPhase(meterRegistry, "http", System.nanoTime() - httpStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void send(HttpClient client, String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).GET().build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("GET " + url + " returned " + response.statusCode());
+        }
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.hazelcast.controller;
 
 import com.example.hazelcast.config.HazelcastConfig; // Assuming this might be needed for context
+import com.example.hazelcast.hotkeys.HotKeyTracker;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.anyString;
@@ -30,6 +32,9 @@ public class CacheMapControllerTest { // Rename test class
     @MockBean
     private HazelcastInstance hazelcastInstance;
 
+    @MockBean // Reset after every test, so access counts never carry over between test methods
+    private HotKeyTracker hotKeyTracker;
+
     @MockBean(name = "default") // Mock the specific IMap bean if necessary, or mock via HazelcastInstance
     private IMap<String, String> cacheMap;
 
@@ -50,6 +55,7 @@ public class CacheMapControllerTest { // Rename test class
 
         // Verify with the plain string value
         verify(cacheMap).put("testKey", "testValue");
+        verify(hotKeyTracker).recordAccess("testKey");
     }
 
     @Test
@@ -59,6 +65,8 @@ public class CacheMapControllerTest { // Rename test class
         mockMvc.perform(get("/cache/{key}", "testKey"))
                 .andExpect(status().isOk())
                 .andExpect(content().string("testValue"));
+
+        verify(hotKeyTracker).recordAccess("testKey");
     }
 
     @Test
@@ -90,6 +98,30 @@ public class CacheMapControllerTest { // Rename test class
                 .andExpect(jsonPath("$.isEmpty").value(false));
     }
 
+    @Test
+    void getHotKeys() throws Exception {
+        when(hotKeyTracker.topKeys(2)).thenReturn(List.of(
+                new HotKeyTracker.HotKey("hotKey", 30), new HotKeyTracker.HotKey("warmKey", 5)));
+
+        mockMvc.perform(get("/cache/hotkeys").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$[0].key").value("hotKey"))
+                .andExpect(jsonPath("$[0].estimatedCount").value(30))
+                .andExpect(jsonPath("$[1].key").value("warmKey"));
+    }
+
+    @Test
+    void getHotKeysDefaultLimit() throws Exception {
+        when(hotKeyTracker.topKeys(10)).thenReturn(List.of());
+
+        mockMvc.perform(get("/cache/hotkeys"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(0));
+
+        verify(hotKeyTracker).topKeys(10);
+    }
+
     @Test
     void queryCache() throws Exception {
         // Mock the entrySet and stream operations if needed, or return a simple map
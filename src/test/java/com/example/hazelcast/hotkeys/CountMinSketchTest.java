@@ -0,0 +1,36 @@
+package com.example.hazelcast.hotkeys;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class CountMinSketchTest {
+
+    @Test
+    void colliding32BitHashCodesAreCountedSeparately() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(CountMinSketch.hash64("Aa"), CountMinSketch.hash64("BB"));
+
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        for (int i = 0; i < 10; i++) {
+            sketch.increment("Aa");
+        }
+        sketch.increment("BB");
+
+        assertEquals(10, sketch.estimate("Aa"));
+        assertEquals(1, sketch.estimate("BB"));
+    }
+
+    @Test
+    void decayHalvesCounts() {
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        for (int i = 0; i < 9; i++) {
+            sketch.increment("key");
+        }
+
+        sketch.decay();
+
+        assertEquals(4, sketch.estimate("key"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.hazelcast.hotkeys;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HotKeyTrackerTest {
+
+    @Test
+    void topKeysAreOrderedHottestFirst() {
+        HotKeyTracker tracker = new HotKeyTracker(10, 4, 1024);
+        record(tracker, "a", 5);
+        record(tracker, "b", 20);
+        record(tracker, "c", 10);
+
+        List<HotKeyTracker.HotKey> top = tracker.topKeys(2);
+
+        assertEquals(List.of(new HotKeyTracker.HotKey("b", 20), new HotKeyTracker.HotKey("c", 10)), top);
+    }
+
+    @Test
+    void coldKeysAreTrimmedOnceCandidatesOverflow() {
+        HotKeyTracker tracker = new HotKeyTracker(2, 4, 1024);
+        record(tracker, "hot-1", 50);
+        record(tracker, "hot-2", 40);
+        for (int i = 0; i < 100; i++) {
+            tracker.recordAccess("cold-" + i);
+        }
+
+        List<HotKeyTracker.HotKey> top = tracker.topKeys(10);
+
+        assertEquals(2, top.size());
+        assertEquals("hot-1", top.get(0).key());
+        assertEquals("hot-2", top.get(1).key());
+    }
+
+    @Test
+    void countsAreHalvedOnDecay() {
+        HotKeyTracker tracker = new HotKeyTracker(10, 4, 1024);
+        record(tracker, "a", 100);
+
+        tracker.decay();
+
+        long count = tracker.topKeys(1).get(0).estimatedCount();
+
+        assertTrue(count <= 50, "expected halved count but was " + count);
+    }
+
+    @Test
+    void topKeysReportCurrentCountsOfAdmittedKeys() {
+        HotKeyTracker tracker = new HotKeyTracker(10, 4, 1024);
+        record(tracker, "a", 1);
+        assertEquals(List.of(new HotKeyTracker.HotKey("a", 1)), tracker.topKeys(1));
+
+        record(tracker, "a", 29);
+
+        assertEquals(List.of(new HotKeyTracker.HotKey("a", 30)), tracker.topKeys(1));
+    }
+
+    @Test
+    void warmupKeysAreNotTracked() {
+        HotKeyTracker tracker = new HotKeyTracker(10, 4, 1024);
+        record(tracker, HotKeyTracker.WARMUP_KEY_PREFIX + "1", 50);
+        record(tracker, "a", 1);
+
+        assertEquals(List.of(new HotKeyTracker.HotKey("a", 1)), tracker.topKeys(10));
+    }
+
+    private static void record(HotKeyTracker tracker, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            tracker.recordAccess(key);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.hazelcast.hotkeys;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.OperationTimeoutException;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class HotKeyWarmerTest {
+
+    private IMap<String, Long> published;
+    private IMap<String, String> cache;
+    private HotKeyTracker hotKeyTracker;
+    private HotKeyWarmer hotKeyWarmer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        HazelcastInstance hazelcastInstance = mock(HazelcastInstance.class);
+        published = mock(IMap.class);
+        cache = mock(IMap.class);
+        hotKeyTracker = mock(HotKeyTracker.class);
+        when(hazelcastInstance.<String, Long>getMap(HotKeyWarmer.HOT_KEYS_MAP)).thenReturn(published);
+        when(hazelcastInstance.<String, String>getMap("default")).thenReturn(cache);
+
+        hotKeyWarmer = new HotKeyWarmer();
+        ReflectionTestUtils.setField(hotKeyWarmer, "hazelcastInstance", hazelcastInstance);
+        ReflectionTestUtils.setField(hotKeyWarmer, "hotKeyTracker", hotKeyTracker);
+        ReflectionTestUtils.setField(hotKeyWarmer, "preloadCount", 2);
+        ReflectionTestUtils.setField(hotKeyWarmer, "publishedTtlSeconds", 60L);
+    }
+
+    @Test
+    void preloadsHottestPublishedKeys() {
+        when(published.entrySet()).thenReturn(Set.of(
+                new SimpleEntry<>("cold", 1L), new SimpleEntry<>("hottest", 50L), new SimpleEntry<>("warm", 10L)));
+
+        hotKeyWarmer.run(null);
+
+        verify(cache).getAll(new LinkedHashSet<>(List.of("hottest", "warm")));
+    }
+
+    @Test
+    void skipsPreloadWhenNothingPublished() {
+        when(published.entrySet()).thenReturn(Set.of());
+
+        hotKeyWarmer.run(null);
+
+        verify(cache, never()).getAll(any());
+    }
+
+    @Test
+    void preloadFailureDoesNotStopStartup() {
+        when(published.entrySet()).thenReturn(Set.of(new SimpleEntry<>("hottest", 50L)));
+        when(cache.getAll(any())).thenThrow(new OperationTimeoutException("timed out"));
+
+        assertDoesNotThrow(() -> hotKeyWarmer.run(null));
+    }
+
+    @Test
+    void preloadDisabledWithZeroCount() {
+        ReflectionTestUtils.setField(hotKeyWarmer, "preloadCount", 0);
+
+        hotKeyWarmer.run(null);
+
+        verifyNoInteractions(published, cache);
+    }
+
+    @Test
+    void publishesTopKeysWithTtl() {
+        when(hotKeyTracker.topKeys(2)).thenReturn(List.of(
+                new HotKeyTracker.HotKey("hottest", 50), new HotKeyTracker.HotKey("warm", 10)));
+        when(published.setAsync(anyString(), anyLong(), anyLong(), any(TimeUnit.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        hotKeyWarmer.publishHotKeys();
+
+        verify(published).setAsync("hottest", 50L, 60L, TimeUnit.SECONDS);
+        verify(published).setAsync("warm", 10L, 60L, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void publishFailureIsNotPropagated() {
+        when(hotKeyTracker.topKeys(2)).thenReturn(List.of(new HotKeyTracker.HotKey("hottest", 50)));
+        when(published.setAsync(anyString(), anyLong(), anyLong(), any(TimeUnit.class)))
+                .thenReturn(CompletableFuture.failedFuture(new OperationTimeoutException("timed out")));
+
+        assertDoesNotThrow(() -> hotKeyWarmer.publishHotKeys());
+    }
+
+    @Test
+    void publishSkippedWithoutHotKeys() {
+        when(hotKeyTracker.topKeys(2)).thenReturn(List.of());
+
+        hotKeyWarmer.publishHotKeys();
+
+        verifyNoInteractions(published);
+    }
+}
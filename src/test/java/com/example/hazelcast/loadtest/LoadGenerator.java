@@ -0,0 +1,205 @@
+package com.example.hazelcast.loadtest;
+
+import com.example.hazelcast.App;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator for the {@code /cache} and {@code /ringbuffer} endpoints.
+ * <p>
+ * Requests are scheduled at a fixed target rate and sent asynchronously, so a slow response never delays
+ * the next request. Latency is measured from each request's intended send time and written to a
+ * {@link LoadTestReport}. Without {@code -Dloadtest.target} the application is started in-process on a
+ * random port and shut down afterwards.
+ * <pre>
+ * ./mvnw -Ploadtest test-compile exec:java -Dloadtest.target=http://localhost:8080 -Dloadtest.rate=2000
+ * </pre>
+ */
+public class LoadGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadGenerator.class);
+
+    private static final String KEY_PREFIX = "key-";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int RINGBUFFER_READ_BATCH = 10;
+
+    private final LoadTestSettings settings;
+    private final String baseUrl;
+    private final HttpClient client;
+    private final ZipfianKeyGenerator keys;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final String value;
+    private final LoadTestReport report = new LoadTestReport();
+    private final AtomicLong inFlight = new AtomicLong();
+    // Highest sequence returned by ringbuffer-add (seeded before the run), so reads target recent items instead of blocking
+    private final AtomicLong lastRingbufferSequence = new AtomicLong(-1);
+
+    public LoadGenerator(LoadTestSettings settings, String baseUrl) {
+        this.settings = settings;
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.keys = new ZipfianKeyGenerator(settings.getKeyCount(), settings.getZipfExponent());
+
+        Map<Operation, Integer> mix = settings.getMix();
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.cumulativeWeights = new int[operations.length];
+        int sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            cumulativeWeights[i] = sum;
+        }
+        this.value = "v".repeat(settings.getValueSize());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext context = null;
+        String target = settings.getTarget();
+        if (target.isEmpty()) {
+            logger.info("No loadtest.target given, starting the application in-process");
+            context = SpringApplication.run(App.class, "--server.port=0");
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+        try {
+            new LoadGenerator(settings, target).run();
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    public void run() throws Exception {
+        if (settings.getMix().getOrDefault(Operation.RINGBUFFER_READ, 0) > 0) {
+            seedRingbuffer();
+        }
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.getRate();
+        long start = System.nanoTime();
+        long measureFrom = start + settings.getWarmup().toNanos();
+        long end = measureFrom + settings.getDuration().toNanos();
+        logger.info("Driving {} at {} req/s: warmup={}s, duration={}s, mix={}",
+                baseUrl, settings.getRate(), settings.getWarmup().toSeconds(), settings.getDuration().toSeconds(), settings.getMix());
+
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            // If the scheduler fell behind, the request goes out immediately but keeps its intended start time
+            send(nextOperation(), intendedStart, intendedStart >= measureFrom);
+        }
+
+        long drainDeadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        if (inFlight.get() > 0) {
+            logger.warn("{} requests still in flight after drain timeout, they are not included in the report", inFlight.get());
+        }
+
+        report.write(settings, end - measureFrom);
+        logger.info("Load test report written to {}", settings.getReport().toAbsolutePath());
+    }
+
+    /**
+     * Adds one item before the run starts. Until then reads would go to sequence 0 of a possibly empty
+     * ringbuffer, and {@code /ringbuffer/read} blocks until an item exists.
+     */
+    private void seedRingbuffer() throws Exception {
+        HttpResponse<String> response = client.send(buildRequest(Operation.RINGBUFFER_ADD), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() >= 400) {
+            throw new IllegalStateException("Seeding the ringbuffer failed with HTTP " + response.statusCode() + ": " + response.body());
+        }
+        lastRingbufferSequence.set(Long.parseLong(response.body().trim()));
+    }
+
+    private Operation nextOperation() {
+        int sample = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (sample < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private void send(Operation operation, long intendedStart, boolean measured) {
+        HttpRequest request = buildRequest(operation);
+        inFlight.incrementAndGet();
+        long sendStart = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> {
+                    try {
+                        long endNanos = System.nanoTime();
+                        boolean success = error == null && response.statusCode() < 400;
+                        if (measured) {
+                            report.record(operation, intendedStart, sendStart, endNanos, success);
+                        }
+                        if (success && operation == Operation.RINGBUFFER_ADD) {
+                            lastRingbufferSequence.accumulateAndGet(Long.parseLong(response.body().trim()), Math::max);
+                        }
+                    } catch (RuntimeException e) {
+                        logger.debug("Failed to process {} response: {}", operation.mixName(), e.getMessage());
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        HttpRequest.Builder builder;
+        switch (operation) {
+            case PUT:
+                builder = HttpRequest.newBuilder(uri("/cache/" + keys.nextKey(KEY_PREFIX)))
+                        .header("Content-Type", "text/plain")
+                        .PUT(HttpRequest.BodyPublishers.ofString(value));
+                break;
+            case GET:
+                builder = HttpRequest.newBuilder(uri("/cache/" + keys.nextKey(KEY_PREFIX))).GET();
+                break;
+            case QUERY:
+                builder = HttpRequest.newBuilder(uri("/cache/query?keyPrefix="
+                        + URLEncoder.encode(keys.nextKey(KEY_PREFIX), StandardCharsets.UTF_8))).GET();
+                break;
+            case RINGBUFFER_ADD:
+                builder = HttpRequest.newBuilder(uri("/ringbuffer/add"))
+                        .header("Content-Type", "text/plain")
+                        .POST(HttpRequest.BodyPublishers.ofString(value));
+                break;
+            case RINGBUFFER_READ:
+                long startSequence = Math.max(0, lastRingbufferSequence.get() - RINGBUFFER_READ_BATCH + 1);
+                builder = HttpRequest.newBuilder(uri("/ringbuffer/read?startSequence=" + startSequence)).GET();
+                break;
+            default:
+                throw new IllegalStateException("Unhandled operation: " + operation);
+        }
+        return builder.timeout(REQUEST_TIMEOUT).build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.hazelcast.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Collects per-operation latencies and writes them as a plain-text report that is stable enough to diff
+ * between releases (no timestamps, fixed column layout).
+ * <p>
+ * Two histograms are kept for every operation. The {@code response} histogram measures from the time the
+ * request <em>should</em> have been sent according to the target rate, so stalls on the server also
+ * penalise the requests that queued up behind them (coordinated-omission corrected). The {@code service}
+ * histogram measures from the time the request was actually handed to the HTTP client.
+ */
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+    static final String IN_PROCESS_TARGET = "in-process";
+
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    public LoadTestReport() {
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    /** Safe to call concurrently from HTTP client completion threads. */
+    public void record(Operation operation, long intendedStartNanos, long sendStartNanos, long endNanos, boolean success) {
+        OperationStats operationStats = stats.get(operation);
+        if (!success) {
+            operationStats.errors.increment();
+        }
+        operationStats.response.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos));
+        operationStats.service.recordValue(TimeUnit.NANOSECONDS.toMicros(endNanos - sendStartNanos));
+    }
+
+    public void write(LoadTestSettings settings, long measuredNanos) throws IOException {
+        Path report = settings.getReport();
+        if (report.getParent() != null) {
+            Files.createDirectories(report.getParent());
+        }
+        try (OutputStream out = Files.newOutputStream(report);
+             PrintStream printer = new PrintStream(out, false, StandardCharsets.UTF_8)) {
+            print(printer, settings, measuredNanos);
+        }
+    }
+
+    void print(PrintStream out, LoadTestSettings settings, long measuredNanos) {
+        Map<Operation, Histogram> responses = new EnumMap<>(Operation.class);
+        Map<Operation, Histogram> services = new EnumMap<>(Operation.class);
+        long total = 0;
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            Histogram response = entry.getValue().response.getIntervalHistogram();
+            responses.put(entry.getKey(), response);
+            services.put(entry.getKey(), entry.getValue().service.getIntervalHistogram());
+            total += response.getTotalCount();
+        }
+
+        // The in-process app listens on a random port, so print a fixed label instead of its URL to keep reports diffable
+        String target = settings.getTarget().isEmpty() ? IN_PROCESS_TARGET : settings.getTarget();
+        out.println("# Hazelcast Cache Spring HTTP load test");
+        out.printf(Locale.ROOT, "# target=%s rate=%d/s warmup=%ds duration=%ds keys=%d zipfExponent=%s valueSize=%d%n",
+                target, settings.getRate(), settings.getWarmup().toSeconds(), settings.getDuration().toSeconds(),
+                settings.getKeyCount(), settings.getZipfExponent(), settings.getValueSize());
+        out.println("# mix=" + settings.getMix().entrySet().stream()
+                .map(e -> e.getKey().mixName() + ":" + e.getValue())
+                .collect(Collectors.joining(",")));
+        out.printf(Locale.ROOT, "# measured requests=%d achievedRate=%.1f/s%n",
+                total, measuredNanos > 0 ? total * 1e9 / measuredNanos : 0.0);
+        out.println("# Latencies in milliseconds. 'response' starts at the intended send time (coordinated-omission corrected),");
+        out.println("# 'service' starts at the actual send time.");
+        out.println();
+
+        out.printf(Locale.ROOT, "%-16s %-9s %9s %7s", "operation", "metric", "count", "errors");
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, " %9s", "p" + formatPercentile(percentile));
+        }
+        out.printf(Locale.ROOT, " %9s%n", "max");
+        for (Operation operation : Operation.values()) {
+            if (responses.get(operation).getTotalCount() == 0) {
+                continue;
+            }
+            long errors = stats.get(operation).errors.sum();
+            printRow(out, operation, "response", responses.get(operation), errors);
+            printRow(out, operation, "service", services.get(operation), errors);
+        }
+
+        for (Operation operation : Operation.values()) {
+            Histogram response = responses.get(operation);
+            if (response.getTotalCount() == 0) {
+                continue;
+            }
+            out.println();
+            out.println("## " + operation.mixName() + " response time distribution (ms)");
+            response.outputPercentileDistribution(out, 5, MICROS_PER_MILLI);
+        }
+    }
+
+    private static void printRow(PrintStream out, Operation operation, String metric, Histogram histogram, long errors) {
+        out.printf(Locale.ROOT, "%-16s %-9s %9d %7d", operation.mixName(), metric, histogram.getTotalCount(), errors);
+        for (double percentile : PERCENTILES) {
+            out.printf(Locale.ROOT, " %9.3f", histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI);
+        }
+        out.printf(Locale.ROOT, " %9.3f%n", histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static final class OperationStats {
+        // Recorder is safe for concurrent writers, which we need since completions arrive on client threads
+        private final Recorder response = new Recorder(SIGNIFICANT_DIGITS);
+        private final Recorder service = new Recorder(SIGNIFICANT_DIGITS);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.hazelcast.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LoadTestReportTest {
+
+    private static final long MEASURED_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    @Test
+    void identicalRunsProduceIdenticalReports() {
+        assertEquals(render(recordedReport()), render(recordedReport()));
+    }
+
+    @Test
+    void reportListsRecordedOperationsOnly() {
+        String report = render(recordedReport());
+
+        assertTrue(report.startsWith("# Hazelcast Cache Spring HTTP load test"));
+        assertTrue(report.contains("# measured requests=3 achievedRate=0.3/s"));
+        assertTrue(report.lines().anyMatch(line -> line.matches("get\\s+response\\s+2\\s+1\\s.*")), report);
+        assertTrue(report.lines().anyMatch(line -> line.matches("put\\s+service\\s+1\\s+0\\s.*")), report);
+        assertTrue(report.contains("## get response time distribution (ms)"));
+        assertFalse(report.contains("ringbuffer-add"), report);
+    }
+
+    private static LoadTestReport recordedReport() {
+        LoadTestReport report = new LoadTestReport();
+        long ms = TimeUnit.MILLISECONDS.toNanos(1);
+        report.record(Operation.GET, 0, 2 * ms, 5 * ms, true);
+        report.record(Operation.GET, 0, 0, 40 * ms, false);
+        report.record(Operation.PUT, 0, 1 * ms, 3 * ms, true);
+        return report;
+    }
+
+    @Test
+    void inProcessTargetIsPrintedAsStableLabel() {
+        assertTrue(render(recordedReport()).contains("# target=in-process "));
+    }
+
+    @Test
+    void explicitTargetIsPrinted() {
+        Properties properties = new Properties();
+        properties.setProperty("loadtest.target", "http://cache.example:8080");
+
+        assertTrue(render(recordedReport(), properties).contains("# target=http://cache.example:8080 "));
+    }
+
+    private static String render(LoadTestReport report) {
+        return render(report, new Properties());
+    }
+
+    private static String render(LoadTestReport report, Properties properties) {
+        properties.setProperty("loadtest.mix", "put:1,get:1");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PrintStream printer = new PrintStream(out, true, StandardCharsets.UTF_8)) {
+            report.print(printer, LoadTestSettings.fromProperties(properties), MEASURED_NANOS);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.hazelcast.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Load generator settings, read from {@code loadtest.*} system properties so they can be passed straight
+ * through {@code ./mvnw -Ploadtest exec:java -Dloadtest.rate=2000 ...}.
+ */
+public class LoadTestSettings {
+
+    static final int MAX_RATE = 1_000_000_000;
+    static final String DEFAULT_MIX = "put:20,get:65,query:5,ringbuffer-add:5,ringbuffer-read:5";
+
+    /** Base URL of a running instance; empty means start the application in-process on a random port. */
+    private final String target;
+    /** Target request rate in requests per second, independent of how fast responses come back. */
+    private final int rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int keyCount;
+    private final double zipfExponent;
+    private final int valueSize;
+    private final Map<Operation, Integer> mix;
+    private final Path report;
+
+    private LoadTestSettings(String target, int rate, Duration warmup, Duration duration, int keyCount,
+                             double zipfExponent, int valueSize, Map<Operation, Integer> mix, Path report) {
+        this.target = target;
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.keyCount = keyCount;
+        this.zipfExponent = zipfExponent;
+        this.valueSize = valueSize;
+        this.mix = mix;
+        this.report = report;
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return fromProperties(System.getProperties());
+    }
+
+    static LoadTestSettings fromProperties(Properties properties) {
+        int rate = Integer.parseInt(properties.getProperty("loadtest.rate", "500"));
+        // Above 1e9 req/s the per-request interval rounds down to 0 ns and the scheduler never reaches the end time
+        if (rate <= 0 || rate > MAX_RATE) {
+            throw new IllegalArgumentException("loadtest.rate must be between 1 and " + MAX_RATE + ": " + rate);
+        }
+        long warmupSeconds = Long.parseLong(properties.getProperty("loadtest.warmupSeconds", "10"));
+        if (warmupSeconds < 0) {
+            throw new IllegalArgumentException("loadtest.warmupSeconds must not be negative: " + warmupSeconds);
+        }
+        long durationSeconds = Long.parseLong(properties.getProperty("loadtest.durationSeconds", "60"));
+        if (durationSeconds <= 0) {
+            throw new IllegalArgumentException("loadtest.durationSeconds must be positive: " + durationSeconds);
+        }
+        int valueSize = Integer.parseInt(properties.getProperty("loadtest.valueSize", "128"));
+        if (valueSize <= 0) {
+            throw new IllegalArgumentException("loadtest.valueSize must be positive: " + valueSize);
+        }
+        return new LoadTestSettings(
+                properties.getProperty("loadtest.target", "").trim(),
+                rate,
+                Duration.ofSeconds(warmupSeconds),
+                Duration.ofSeconds(durationSeconds),
+                Integer.parseInt(properties.getProperty("loadtest.keys", "10000")),
+                Double.parseDouble(properties.getProperty("loadtest.zipfExponent", "0.99")),
+                valueSize,
+                parseMix(properties.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Path.of(properties.getProperty("loadtest.report", "target/loadtest-report.txt")));
+    }
+
+    static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] nameAndWeight = part.trim().split(":");
+            if (nameAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry, expected name:weight: " + part);
+            }
+            int weight = Integer.parseInt(nameAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in loadtest.mix: " + part);
+            }
+            weights.put(Operation.fromMixName(nameAndWeight[0].trim()), weight);
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("loadtest.mix must contain at least one positive weight: " + spec);
+        }
+        // /ringbuffer/read blocks until an item exists, so reads without adds would only measure client timeouts
+        if (weights.getOrDefault(Operation.RINGBUFFER_READ, 0) > 0 && weights.getOrDefault(Operation.RINGBUFFER_ADD, 0) == 0) {
+            throw new IllegalArgumentException("loadtest.mix with ringbuffer-read also needs a positive ringbuffer-add weight: " + spec);
+        }
+        return weights;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public Duration getWarmup() {
+        return warmup;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+
+    public int getValueSize() {
+        return valueSize;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public Path getReport() {
+        return report;
+    }
+}
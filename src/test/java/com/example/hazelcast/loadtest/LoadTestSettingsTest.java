@@ -0,0 +1,69 @@
+package com.example.hazelcast.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LoadTestSettingsTest {
+
+    @Test
+    void parseMix() {
+        Map<Operation, Integer> mix = LoadTestSettings.parseMix(" put:3 , get:7,ringbuffer-read:0");
+
+        assertEquals(Map.of(Operation.PUT, 3, Operation.GET, 7, Operation.RINGBUFFER_READ, 0), mix);
+    }
+
+    @Test
+    void parseMixRejectsMalformedEntries() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("put"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("put:1:2"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("put:many"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("put:-1,get:5"));
+    }
+
+    @Test
+    void parseMixRejectsUnknownOperations() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("put:1,scan:1"));
+    }
+
+    @Test
+    void parseMixRejectsZeroTotalWeight() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("put:0,get:0"));
+    }
+
+    @Test
+    void parseMixRejectsRingbufferReadsWithoutAdds() {
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("get:5,ringbuffer-read:1"));
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.parseMix("ringbuffer-read:1,ringbuffer-add:0"));
+        assertEquals(2, LoadTestSettings.parseMix("ringbuffer-read:1,ringbuffer-add:1").size());
+    }
+
+    @Test
+    void defaults() {
+        LoadTestSettings settings = LoadTestSettings.fromProperties(new Properties());
+
+        assertEquals("", settings.getTarget());
+        assertEquals(500, settings.getRate());
+        assertEquals(LoadTestSettings.parseMix(LoadTestSettings.DEFAULT_MIX), settings.getMix());
+    }
+
+    @Test
+    void rejectsOutOfRangeValues() {
+        assertInvalid("loadtest.rate", "0");
+        assertInvalid("loadtest.rate", "1000000001");
+        assertInvalid("loadtest.warmupSeconds", "-1");
+        assertInvalid("loadtest.durationSeconds", "-5");
+        assertInvalid("loadtest.durationSeconds", "0");
+        assertInvalid("loadtest.valueSize", "0");
+    }
+
+    private static void assertInvalid(String name, String value) {
+        Properties properties = new Properties();
+        properties.setProperty(name, value);
+        assertThrows(IllegalArgumentException.class, () -> LoadTestSettings.fromProperties(properties), name + "=" + value);
+    }
+}
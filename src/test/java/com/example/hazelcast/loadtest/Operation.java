@@ -0,0 +1,31 @@
+package com.example.hazelcast.loadtest;
+
+/**
+ * Endpoint calls the load generator can issue, keyed by the name used in the {@code loadtest.mix} property.
+ */
+public enum Operation {
+    PUT("put"),
+    GET("get"),
+    QUERY("query"),
+    RINGBUFFER_ADD("ringbuffer-add"),
+    RINGBUFFER_READ("ringbuffer-read");
+
+    private final String mixName;
+
+    Operation(String mixName) {
+        this.mixName = mixName;
+    }
+
+    public String mixName() {
+        return mixName;
+    }
+
+    public static Operation fromMixName(String name) {
+        for (Operation operation : values()) {
+            if (operation.mixName.equals(name)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test operation: " + name);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.hazelcast.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws key indexes in {@code [0, keyCount)} following a Zipfian distribution, so that index 0 is the
+ * hottest key, index 1 the next hottest, and so on. The cumulative distribution is precomputed once and
+ * sampled with a binary search, which keeps {@link #nextIndex()} allocation-free on the request path.
+ */
+public class ZipfianKeyGenerator {
+
+    private final double[] cumulative;
+
+    public ZipfianKeyGenerator(int keyCount, double exponent) {
+        if (keyCount <= 0) {
+            throw new IllegalArgumentException("keyCount must be positive: " + keyCount);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("exponent must not be negative: " + exponent);
+        }
+        cumulative = new double[keyCount];
+        double sum = 0;
+        for (int rank = 0; rank < keyCount; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < keyCount; rank++) {
+            cumulative[rank] /= sum;
+        }
+        // Guard against rounding leaving the last bucket just below 1.0
+        cumulative[keyCount - 1] = 1.0;
+    }
+
+    public int nextIndex() {
+        double sample = ThreadLocalRandom.current().nextDouble();
+        int index = Arrays.binarySearch(cumulative, sample);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    public String nextKey(String prefix) {
+        return prefix + nextIndex();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.hazelcast.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ZipfianKeyGeneratorTest {
+
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void indexesStayWithinKeyRange() {
+        ZipfianKeyGenerator generator = new ZipfianKeyGenerator(50, 0.99);
+        for (int i = 0; i < SAMPLES; i++) {
+            int index = generator.nextIndex();
+            assertTrue(index >= 0 && index < 50, "index out of range: " + index);
+        }
+    }
+
+    @Test
+    void positiveExponentFavoursLowIndexes() {
+        int[] counts = sample(new ZipfianKeyGenerator(100, 1.0), 100);
+
+        // With exponent 1 key 0 is drawn 100 times as often as key 99
+        assertTrue(counts[0] > 20 * counts[99], "key 0=" + counts[0] + ", key 99=" + counts[99]);
+        assertTrue(counts[0] > counts[1] && counts[1] > counts[9]);
+    }
+
+    @Test
+    void zeroExponentIsUniform() {
+        int[] counts = sample(new ZipfianKeyGenerator(10, 0.0), 10);
+
+        for (int count : counts) {
+            assertEquals(SAMPLES / 10.0, count, SAMPLES / 10.0 * 0.05);
+        }
+    }
+
+    @Test
+    void rejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianKeyGenerator(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianKeyGenerator(10, -0.5));
+    }
+
+    private static int[] sample(ZipfianKeyGenerator generator, int keyCount) {
+        int[] counts = new int[keyCount];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[generator.nextIndex()]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.hazelcast.startup;
+
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.MigrationListener;
+import com.hazelcast.partition.MigrationState;
+import com.hazelcast.partition.PartitionService;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+public class StartupReadinessHealthIndicatorTest {
+
+    private PartitionService partitionService;
+    private StartupWarmup startupWarmup;
+    private SimpleMeterRegistry meterRegistry;
+    private MigrationListener migrationListener;
+    private StartupReadinessHealthIndicator indicator;
+
+    @BeforeEach
+    void setUp() {
+        HazelcastInstance hazelcastInstance = mock(HazelcastInstance.class);
+        Cluster cluster = mock(Cluster.class);
+        partitionService = mock(PartitionService.class);
+        startupWarmup = mock(StartupWarmup.class);
+        meterRegistry = new SimpleMeterRegistry();
+        when(hazelcastInstance.getPartitionService()).thenReturn(partitionService);
+        when(hazelcastInstance.getCluster()).thenReturn(cluster);
+        when(cluster.getMembers()).thenReturn(Set.of());
+
+        indicator = new StartupReadinessHealthIndicator();
+        ReflectionTestUtils.setField(indicator, "hazelcastInstance", hazelcastInstance);
+        ReflectionTestUtils.setField(indicator, "startupWarmup", startupWarmup);
+        ReflectionTestUtils.setField(indicator, "meterRegistry", meterRegistry);
+        indicator.registerMigrationListener();
+
+        ArgumentCaptor<MigrationListener> listener = ArgumentCaptor.forClass(MigrationListener.class);
+        verify(partitionService).addMigrationListener(listener.capture());
+        migrationListener = listener.getValue();
+
+        // Every condition satisfied; individual tests break one of them
+        when(startupWarmup.isComplete()).thenReturn(true);
+        when(partitionService.isClusterSafe()).thenReturn(true);
+        when(partitionService.isLocalMemberSafe()).thenReturn(true);
+    }
+
+    @Test
+    void upWhenAllConditionsHold() {
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    void outOfServiceUntilWarmupComplete() {
+        when(startupWarmup.isComplete()).thenReturn(false);
+
+        Health health = indicator.health();
+
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(false, health.getDetails().get("warmupComplete"));
+    }
+
+    @Test
+    void outOfServiceWhileClusterNotSafe() {
+        when(partitionService.isClusterSafe()).thenReturn(false);
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+    }
+
+    @Test
+    void outOfServiceWhileLocalMemberNotSafe() {
+        when(partitionService.isLocalMemberSafe()).thenReturn(false);
+
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+    }
+
+    @Test
+    void outOfServiceWhileMigrationRuns() {
+        migrationListener.migrationStarted(mock(MigrationState.class));
+        assertEquals(Status.OUT_OF_SERVICE, indicator.health().getStatus());
+
+        migrationListener.migrationFinished(mock(MigrationState.class));
+        assertEquals(Status.UP, indicator.health().getStatus());
+    }
+
+    @Test
+    void staysUpAfterFirstReadyEvenWhenClusterBecomesUnsafe() {
+        assertEquals(Status.UP, indicator.health().getStatus());
+
+        when(partitionService.isClusterSafe()).thenReturn(false);
+        when(partitionService.isLocalMemberSafe()).thenReturn(false);
+        migrationListener.migrationStarted(mock(MigrationState.class));
+
+        assertEquals(Status.UP, indicator.health().getStatus());
+        verify(partitionService, times(1)).isClusterSafe();
+    }
+
+    @Test
+    void clusterSafePhaseRecordedOnce() {
+        when(partitionService.isClusterSafe()).thenReturn(false);
+        indicator.health();
+        assertNull(clusterSafeTimer());
+
+        when(partitionService.isClusterSafe()).thenReturn(true);
+        indicator.health();
+        indicator.health();
+
+        assertEquals(1, clusterSafeTimer().count());
+    }
+
+    private Timer clusterSafeTimer() {
+        return meterRegistry.find(StartupMetrics.STARTUP_PHASE_METRIC).tag("phase", "cluster-safe").timer();
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.hazelcast.startup;
+
+import com.example.hazelcast.hotkeys.HotKeyTracker;
+import com.hazelcast.cluster.Cluster;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.query.Predicate;
+import com.hazelcast.ringbuffer.Ringbuffer;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class StartupWarmupTest {
+
+    private static final UUID MEMBER_UUID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    private IMap<String, String> cache;
+    private IMap<String, String> scratch;
+    private SimpleMeterRegistry meterRegistry;
+    private MockEnvironment environment;
+    private StartupWarmup startupWarmup;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        HazelcastInstance hazelcastInstance = mock(HazelcastInstance.class);
+        Cluster cluster = mock(Cluster.class);
+        Member localMember = mock(Member.class);
+        Ringbuffer<String> ringbuffer = mock(Ringbuffer.class);
+        cache = mock(IMap.class);
+        scratch = mock(IMap.class);
+        meterRegistry = new SimpleMeterRegistry();
+        environment = new MockEnvironment();
+
+        when(hazelcastInstance.getCluster()).thenReturn(cluster);
+        when(cluster.getLocalMember()).thenReturn(localMember);
+        when(localMember.getUuid()).thenReturn(MEMBER_UUID);
+        when(hazelcastInstance.<String, String>getMap("default")).thenReturn(cache);
+        when(hazelcastInstance.<String, String>getMap("__warmup-" + MEMBER_UUID)).thenReturn(scratch);
+        when(hazelcastInstance.<String>getRingbuffer("ringbuffer-demo")).thenReturn(ringbuffer);
+        when(ringbuffer.readManyAsync(anyLong(), eq(0), eq(10), isNull())).thenReturn(CompletableFuture.completedFuture(null));
+
+        startupWarmup = new StartupWarmup();
+        ReflectionTestUtils.setField(startupWarmup, "hazelcastInstance", hazelcastInstance);
+        ReflectionTestUtils.setField(startupWarmup, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(startupWarmup, "environment", environment);
+        ReflectionTestUtils.setField(startupWarmup, "iterations", 3);
+        ReflectionTestUtils.setField(startupWarmup, "httpRequests", 3);
+    }
+
+    @Test
+    void warmsUpOnPerMemberScratchMap() {
+        assertFalse(startupWarmup.isComplete());
+
+        startupWarmup.run(null);
+
+        assertTrue(startupWarmup.isComplete());
+        verify(cache, times(3)).getOrDefault(anyString(), eq("Entry not found."));
+        verify(scratch, times(3)).put(anyString(), anyString());
+        verify(cache, never()).put(anyString(), anyString());
+        verify(scratch).entrySet(any(Predicate.class));
+        verify(cache, never()).entrySet(any(Predicate.class));
+        verify(scratch).destroy();
+        assertEquals(1, meterRegistry.find(StartupMetrics.STARTUP_PHASE_METRIC).tag("phase", "warmup").timer().count());
+        assertEquals(1, meterRegistry.find(StartupMetrics.STARTUP_PHASE_METRIC).tag("phase", "proxies").timer().count());
+    }
+
+    @Test
+    void completesEvenWhenAnOperationFails() {
+        when(cache.getOrDefault(anyString(), anyString())).thenThrow(new HazelcastException("operation timed out"));
+
+        startupWarmup.run(null);
+
+        assertTrue(startupWarmup.isComplete());
+        verify(scratch).destroy();
+        assertEquals(1, meterRegistry.find(StartupMetrics.STARTUP_PHASE_METRIC).tag("phase", "warmup").timer().count());
+    }
+
+    @Test
+    void sendsLocalHttpRequestsWithUntrackedKeys() throws IOException {
+        List<String> paths = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            paths.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            environment.setProperty("local.server.port", String.valueOf(server.getAddress().getPort()));
+
+            startupWarmup.run(null);
+        } finally {
+            server.stop(0);
+        }
+
+        assertTrue(startupWarmup.isComplete());
+        assertEquals(List.of(
+                "GET /cache/" + HotKeyTracker.WARMUP_KEY_PREFIX + "0",
+                "GET /ringbuffer/info",
+                "GET /cache/" + HotKeyTracker.WARMUP_KEY_PREFIX + "1",
+                "GET /cache/" + HotKeyTracker.WARMUP_KEY_PREFIX + "2"), paths);
+        assertEquals(1, meterRegistry.find(StartupMetrics.STARTUP_PHASE_METRIC).tag("phase", "http").timer().count());
+    }
+
+    @Test
+    void skipsHttpWarmupWithoutWebServer() {
+        startupWarmup.run(null);
+
+        assertTrue(startupWarmup.isComplete());
+        assertNull(meterRegistry.find(StartupMetrics.STARTUP_PHASE_METRIC).tag("phase", "http").timer());
+    }
+
+    @Test
+    void completesWhenHttpRequestsFail() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            environment.setProperty("local.server.port", String.valueOf(server.getAddress().getPort()));
+
+            startupWarmup.run(null);
+        } finally {
+            server.stop(0);
+        }
+
+        assertTrue(startupWarmup.isComplete());
+        assertEquals(1, meterRegistry.find(StartupMetrics.STARTUP_PHASE_METRIC).tag("phase", "http").timer().count());
+    }
+}